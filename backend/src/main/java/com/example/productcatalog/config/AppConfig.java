@@ -16,6 +16,7 @@ public class AppConfig {
     
     private Pagination pagination = new Pagination();
     private Search search = new Search();
+    private Coalescing coalescing = new Coalescing();
     
     @Data
     public static class Pagination {
@@ -37,4 +38,15 @@ public class AppConfig {
         @Max(value = 500, message = "Max search length cannot exceed 500")
         private int maxLength = 100;
     }
+    
+    @Data
+    public static class Coalescing {
+        private boolean enabled = true;
+        
+        @Min(value = 0, message = "Micro-cache TTL cannot be negative")
+        private long microCacheTtlMs = 0;
+        
+        @Min(value = 1, message = "Micro-cache max entries must be at least 1")
+        private int microCacheMaxEntries = 1000;
+    }
 } 
\ No newline at end of file
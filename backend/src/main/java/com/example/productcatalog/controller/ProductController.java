@@ -3,6 +3,7 @@ package com.example.productcatalog.controller;
 import com.example.productcatalog.entity.Product;
 import com.example.productcatalog.repository.ProductRepository;
 import com.example.productcatalog.service.ProductService;
+import com.example.productcatalog.service.RequestCoalescer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -166,4 +167,18 @@ public class ProductController {
         List<ProductRepository.BrandSummary> brandSummary = productService.getBrandSummary();
         return ResponseEntity.ok(brandSummary);
     }
+
+    @GetMapping("/coalescing-stats")
+    @Operation(
+        summary = "Get request coalescing statistics",
+        description = "Retrieve how many read requests were merged onto an in-flight query and how many were served from the micro-cache"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Coalescing statistics retrieved successfully",
+            content = @Content(schema = @Schema(implementation = RequestCoalescer.CoalescingStats.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<RequestCoalescer.CoalescingStats> getCoalescingStats() {
+        return ResponseEntity.ok(productService.getCoalescingStats());
+    }
 } 
\ No newline at end of file
@@ -6,17 +6,23 @@ import com.example.productcatalog.repository.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
 public class ProductService {
+    private static final String BRAND_SUMMARY_KEY = "brand-summary";
+
     private final ProductRepository productRepository;
+    private final RequestCoalescer requestCoalescer;
 
     @Autowired
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository, RequestCoalescer requestCoalescer) {
         this.productRepository = productRepository;
+        this.requestCoalescer = requestCoalescer;
     }
 
     public List<Product> getAllProducts() {
@@ -24,6 +30,17 @@ public class ProductService {
     }
 
     public Page<Product> getAllProducts(Pageable pageable, String search) {
+        if (pageable.isUnpaged()) {
+            return queryProducts(pageable, search);
+        }
+        // The search query is case-insensitive, so the key only needs the trimmed, lower-cased term
+        String normalizedSearch = search != null ? search.trim().toLowerCase(Locale.ROOT) : "";
+        PageQueryKey key = new PageQueryKey(normalizedSearch, pageable.getPageNumber(),
+                pageable.getPageSize(), pageable.getSort());
+        return requestCoalescer.execute(key, () -> queryProducts(pageable, search));
+    }
+
+    private Page<Product> queryProducts(Pageable pageable, String search) {
         if (search != null && !search.trim().isEmpty()) {
             return productRepository.searchProducts(search.trim(), pageable);
         } else {
@@ -36,7 +53,9 @@ public class ProductService {
     }
 
     public Product addProduct(Product product) {
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        requestCoalescer.invalidate();
+        return savedProduct;
     }
 
     public void deleteProduct(Long productKey) {
@@ -44,10 +63,15 @@ public class ProductService {
             throw new ProductNotFoundException(productKey);
         }
         productRepository.deleteById(productKey);
+        requestCoalescer.invalidate();
     }
 
     public List<ProductRepository.BrandSummary> getBrandSummary() {
-        return productRepository.findBrandSummary();
+        return requestCoalescer.execute(BRAND_SUMMARY_KEY, productRepository::findBrandSummary);
+    }
+
+    public RequestCoalescer.CoalescingStats getCoalescingStats() {
+        return requestCoalescer.getStats();
     }
 
     public Product updateProduct(Long productKey, Product updatedProduct) {
@@ -59,8 +83,13 @@ public class ProductService {
                     product.setProductName(updatedProduct.getProductName());
                     product.setProductDescription(updatedProduct.getProductDescription());
                     product.setPrice(updatedProduct.getPrice());
-                    return productRepository.save(product);
+                    Product savedProduct = productRepository.save(product);
+                    requestCoalescer.invalidate();
+                    return savedProduct;
                 })
                 .orElseThrow(() -> new ProductNotFoundException(productKey));
     }
+
+    private record PageQueryKey(String search, int page, int size, Sort sort) {
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.example.productcatalog.service;
+
+import com.example.productcatalog.config.AppConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical read queries onto a single in-flight call.
+ * The first caller for a key runs the loader; callers arriving while it is
+ * running wait for and share its result. An optional micro-cache keeps the
+ * result for a short window after completion.
+ * <p>
+ * Results are shared between callers and may be retained by the micro-cache,
+ * so they must be treated as read-only; mutating a returned value (for
+ * example a {@code Product} on a shared page) would leak into other requests.
+ */
+@Component
+public class RequestCoalescer {
+    private static final Logger logger = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    private final boolean enabled;
+    private final long microCacheTtlNanos;
+    private final int microCacheMaxEntries;
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Object, CachedResult> microCache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong inFlightMergeCount = new AtomicLong();
+    private final AtomicLong microCacheHitCount = new AtomicLong();
+
+    @Autowired
+    public RequestCoalescer(AppConfig appConfig) {
+        this(appConfig.getCoalescing().isEnabled(),
+             appConfig.getCoalescing().getMicroCacheTtlMs(),
+             appConfig.getCoalescing().getMicroCacheMaxEntries());
+    }
+
+    public RequestCoalescer(boolean enabled, long microCacheTtlMs, int microCacheMaxEntries) {
+        this.enabled = enabled;
+        this.microCacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(microCacheTtlMs);
+        this.microCacheMaxEntries = microCacheMaxEntries;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CachedResult cached = microCache.get(key);
+        if (cached != null) {
+            // Entries loaded before the latest invalidate() are stale even if written after it
+            if (!cached.isStale(System.nanoTime(), generation.get())) {
+                long hits = microCacheHitCount.incrementAndGet();
+                logger.debug("Served read for key {} from micro-cache (total hits: {})", key, hits);
+                return (T) cached.value();
+            }
+            microCache.remove(key, cached);
+        }
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            long merged = inFlightMergeCount.incrementAndGet();
+            logger.debug("Coalesced read for key {} onto in-flight call (total merged: {})", key, merged);
+            return (T) await(existing);
+        }
+
+        long startGeneration = generation.get();
+        try {
+            T value = loader.get();
+            cacheResult(key, value, startGeneration);
+            created.complete(value);
+            return value;
+        } catch (Throwable t) {
+            // Complete on any throwable, including sneaky checked ones, so waiters never hang
+            created.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * Drops cached results and detaches in-flight calls so that reads issued
+     * after a write never observe data loaded before it.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        inFlight.clear();
+        microCache.clear();
+    }
+
+    /**
+     * Number of calls that joined an in-flight call instead of querying themselves.
+     * Micro-cache hits are counted separately.
+     */
+    public long getMergedCount() {
+        return inFlightMergeCount.get();
+    }
+
+    public long getMicroCacheHitCount() {
+        return microCacheHitCount.get();
+    }
+
+    public CoalescingStats getStats() {
+        return new CoalescingStats(enabled, getMergedCount(), getMicroCacheHitCount());
+    }
+
+    private void cacheResult(Object key, Object value, long startGeneration) {
+        if (microCacheTtlNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (microCache.size() >= microCacheMaxEntries) {
+            long currentGeneration = generation.get();
+            microCache.values().removeIf(entry -> entry.isStale(now, currentGeneration));
+            if (microCache.size() >= microCacheMaxEntries) {
+                return;
+            }
+        }
+        microCache.put(key, new CachedResult(value, now + microCacheTtlNanos, startGeneration));
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    public record CoalescingStats(boolean enabled, long mergedRequests, long microCacheHits) {
+    }
+
+    private record CachedResult(Object value, long expiresAtNanos, long generation) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        boolean isStale(long now, long currentGeneration) {
+            return generation != currentGeneration || isExpired(now);
+        }
+    }
+}
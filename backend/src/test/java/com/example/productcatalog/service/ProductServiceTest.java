@@ -4,8 +4,16 @@ import com.example.productcatalog.entity.Product;
 import com.example.productcatalog.repository.ProductRepository;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -13,9 +21,62 @@ class ProductServiceTest {
     @Test
     void getAllProducts_returnsList() {
         ProductRepository repo = mock(ProductRepository.class);
-        ProductService service = new ProductService(repo);
+        ProductService service = new ProductService(repo, new RequestCoalescer(true, 0, 1000));
         when(repo.findAll()).thenReturn(Collections.singletonList(new Product()));
         List<Product> products = service.getAllProducts();
         assertEquals(1, products.size());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getAllProducts_sharesResultForEquivalentSearchWithinMicroCacheWindow() {
+        ProductRepository repo = mock(ProductRepository.class);
+        RequestCoalescer coalescer = new RequestCoalescer(true, 60_000, 1000);
+        ProductService service = new ProductService(repo, coalescer);
+        Page<Product> page = new PageImpl<>(Collections.singletonList(new Product()));
+        when(repo.searchProducts(anyString(), any())).thenReturn(page);
+
+        assertSame(page, service.getAllProducts(PageRequest.of(0, 10), "Phone"));
+        assertSame(page, service.getAllProducts(PageRequest.of(0, 10), " phone "));
+        verify(repo, times(1)).searchProducts(anyString(), any());
+        assertEquals(1, coalescer.getMicroCacheHitCount());
+        assertEquals(0, coalescer.getMergedCount());
+
+        service.addProduct(new Product());
+        service.getAllProducts(PageRequest.of(0, 10), "phone");
+        verify(repo, times(2)).searchProducts(anyString(), any());
+    }
+
+    @Test
+    void getBrandSummary_coalescesConcurrentCalls() throws Exception {
+        ProductRepository repo = mock(ProductRepository.class);
+        RequestCoalescer coalescer = new RequestCoalescer(true, 0, 1000);
+        ProductService service = new ProductService(repo, coalescer);
+        List<ProductRepository.BrandSummary> summary = Collections.emptyList();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repo.findBrandSummary()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return summary;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<ProductRepository.BrandSummary>> first = executor.submit(service::getBrandSummary);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<List<ProductRepository.BrandSummary>> second = executor.submit(service::getBrandSummary);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalescer.getMergedCount() < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertSame(summary, first.get(5, TimeUnit.SECONDS));
+            assertSame(summary, second.get(5, TimeUnit.SECONDS));
+            verify(repo, times(1)).findBrandSummary();
+            assertEquals(1, coalescer.getMergedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
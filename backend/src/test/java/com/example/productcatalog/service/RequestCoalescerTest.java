@@ -0,0 +1,165 @@
+package com.example.productcatalog.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_collapsesConcurrentIdenticalCallsOntoOneLoad() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(true, 0, 1000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Object result = new Object();
+
+        List<Future<Object>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> coalescer.execute("key", () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return result;
+        })));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> coalescer.execute("key", () -> {
+                loads.incrementAndGet();
+                return new Object();
+            })));
+        }
+        waitUntil(coalescer::getMergedCount, CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> future : futures) {
+            assertSame(result, future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS - 1, coalescer.getMergedCount());
+        assertEquals(0, coalescer.getMicroCacheHitCount());
+    }
+
+    @Test
+    void execute_propagatesLoaderExceptionToAllWaiters() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(true, 0, 1000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+
+        List<Future<Object>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> coalescer.execute("key", () -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        })));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> coalescer.execute("key", Object::new)));
+        }
+        waitUntil(coalescer::getMergedCount, CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> future : futures) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertSame(failure, e.getCause());
+        }
+    }
+
+    @Test
+    void invalidate_detachesInFlightCallSoNextCallerReloads() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(true, 0, 1000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object stale = new Object();
+        Object fresh = new Object();
+
+        Future<Object> first = executor.submit(() -> coalescer.execute("key", () -> {
+            started.countDown();
+            await(release);
+            return stale;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        coalescer.invalidate();
+        assertSame(fresh, coalescer.execute("key", () -> fresh));
+        assertEquals(0, coalescer.getMergedCount());
+
+        release.countDown();
+        assertSame(stale, first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_reloadsWhenInvalidatedWhileLoading() {
+        RequestCoalescer coalescer = new RequestCoalescer(true, 60_000, 1000);
+        Object stale = new Object();
+        Object fresh = new Object();
+
+        assertSame(stale, coalescer.execute("key", () -> {
+            coalescer.invalidate();
+            return stale;
+        }));
+        assertSame(fresh, coalescer.execute("key", () -> fresh));
+        assertEquals(0, coalescer.getMicroCacheHitCount());
+    }
+
+    @Test
+    void execute_bypassesCoalescingWhenDisabled() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(false, 60_000, 1000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<Object> first = executor.submit(() -> coalescer.execute("key", () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return new Object();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        coalescer.execute("key", () -> loads.incrementAndGet());
+        coalescer.execute("key", () -> loads.incrementAndGet());
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertEquals(3, loads.get());
+        assertEquals(0, coalescer.getMergedCount());
+        assertEquals(0, coalescer.getMicroCacheHitCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for latch");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(LongSupplier counter, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter.getAsLong() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, counter.getAsLong());
+    }
+}